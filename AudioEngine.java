@@ -0,0 +1,178 @@
+import javax.sound.sampled.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+// Sound effects without blocking the game tick: clips are synthesized into memory
+// once, play() only enqueues, and a dedicated mixer thread feeds a single line.
+// With no audio device (or -Dsnake.audio=off) the engine is silent and play() is a no-op.
+public class AudioEngine {
+    public enum Cue {
+        PICKUP_LOW(660, 60),
+        PICKUP_MID(880, 70),
+        PICKUP_HIGH(1175, 90),
+        POWER_SLOW(330, 160),
+        POWER_SHIELD(520, 140),
+        POWER_MULTIPLIER(990, 140),
+        SHIELD_HIT(180, 80);
+
+        final double freq;
+        final int millis;
+
+        Cue(double freq, int millis) {
+            this.freq = freq;
+            this.millis = millis;
+        }
+
+        public static Cue forPickup(int value) {
+            if (value >= 50) return PICKUP_HIGH;
+            if (value >= 25) return PICKUP_MID;
+            return PICKUP_LOW;
+        }
+    }
+
+    static final float SAMPLE_RATE = 22050f;
+    static final int MAX_VOICES = 4;
+    static final int BLOCK_FRAMES = 256; // ~12 ms per mixed block
+
+    private static AudioEngine shared;
+
+    private final short[][] clips = new short[Cue.values().length][];
+    final ConcurrentLinkedQueue<Cue> events = new ConcurrentLinkedQueue<>();
+    private final SourceDataLine line;
+    private final Thread mixer;
+    private volatile boolean running;
+
+    // Active voices: which clip and how far into it. Owned by the mixer thread.
+    final short[][] voiceClip = new short[MAX_VOICES][];
+    private final int[] voicePos = new int[MAX_VOICES];
+    private final long[] voiceStart = new long[MAX_VOICES];
+    private long voiceSeq = 0;
+    private final int[] acc = new int[BLOCK_FRAMES];
+
+    public static synchronized AudioEngine get() {
+        if (shared == null) shared = open();
+        return shared;
+    }
+
+    static AudioEngine open() {
+        if ("off".equals(System.getProperty("snake.audio"))) return new AudioEngine(null);
+        AudioFormat fmt = new AudioFormat(SAMPLE_RATE, 16, 1, true, false);
+        try {
+            SourceDataLine l = AudioSystem.getSourceDataLine(fmt);
+            l.open(fmt, BLOCK_FRAMES * 2 * 4);
+            l.start();
+            return new AudioEngine(l);
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException ex) {
+            return new AudioEngine(null);
+        }
+    }
+
+    private AudioEngine(SourceDataLine line) {
+        this.line = line;
+        for (Cue c : Cue.values()) clips[c.ordinal()] = synthesize(c);
+        if (line != null) {
+            running = true;
+            mixer = new Thread(this::mixLoop, "snake-audio");
+            mixer.setDaemon(true);
+            mixer.setPriority(Thread.MAX_PRIORITY);
+            mixer.start();
+        } else {
+            mixer = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return line != null;
+    }
+
+    // Safe to call from the game tick: never blocks, never allocates beyond the queue node.
+    public void play(Cue cue) {
+        if (!running) return;
+        events.offer(cue);
+        LockSupport.unpark(mixer);
+    }
+
+    public void shutdown() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(mixer);
+        try {
+            mixer.join(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        line.stop();
+        line.close();
+    }
+
+    private void mixLoop() {
+        byte[] out = new byte[BLOCK_FRAMES * 2];
+        while (running) {
+            Cue c;
+            while ((c = events.poll()) != null) startVoice(clips[c.ordinal()]);
+
+            if (!anyVoiceActive()) {
+                LockSupport.parkNanos(50_000_000L);
+                continue;
+            }
+
+            mixBlock(out);
+            // Blocks only this thread; the small line buffer keeps latency to a few blocks.
+            line.write(out, 0, out.length);
+        }
+    }
+
+    // Mixes the next BLOCK_FRAMES of every active voice into 16-bit little-endian PCM,
+    // clamping the sum, and frees voices whose clip has finished.
+    void mixBlock(byte[] out) {
+        java.util.Arrays.fill(acc, 0);
+        for (int v = 0; v < MAX_VOICES; v++) {
+            short[] clip = voiceClip[v];
+            if (clip == null) continue;
+            int pos = voicePos[v];
+            int n = Math.min(BLOCK_FRAMES, clip.length - pos);
+            for (int i = 0; i < n; i++) acc[i] += clip[pos + i];
+            pos += n;
+            if (pos >= clip.length) voiceClip[v] = null;
+            else voicePos[v] = pos;
+        }
+        for (int i = 0; i < BLOCK_FRAMES; i++) {
+            int s = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, acc[i]));
+            out[2 * i] = (byte) s;
+            out[2 * i + 1] = (byte) (s >> 8);
+        }
+    }
+
+    // Uses a free voice, or steals the oldest one once MAX_VOICES are playing.
+    void startVoice(short[] clip) {
+        int slot = 0;
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voiceClip[v] == null) {
+                slot = v;
+                break;
+            }
+            if (voiceStart[v] < voiceStart[slot]) slot = v;
+        }
+        voiceClip[slot] = clip;
+        voicePos[slot] = 0;
+        voiceStart[slot] = voiceSeq++;
+    }
+
+    boolean anyVoiceActive() {
+        for (short[] c : voiceClip) if (c != null) return true;
+        return false;
+    }
+
+    // Short sine blip with a linear attack and exponential decay, at a third of full scale
+    // so a few overlapping voices don't clip.
+    static short[] synthesize(Cue cue) {
+        int n = (int) (SAMPLE_RATE * cue.millis / 1000);
+        int attack = Math.max(1, n / 20);
+        short[] pcm = new short[n];
+        for (int i = 0; i < n; i++) {
+            double env = i < attack ? (double) i / attack : Math.exp(-4.0 * (i - attack) / (n - attack));
+            pcm[i] = (short) (Math.sin(2 * Math.PI * cue.freq * i / SAMPLE_RATE) * env * Short.MAX_VALUE / 3);
+        }
+        return pcm;
+    }
+}
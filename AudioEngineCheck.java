@@ -0,0 +1,67 @@
+// Headless check of AudioEngine's silent fallback, voice limiting and cue mapping.
+// Run: java -Dsnake.audio=off AudioEngineCheck   (exits non-zero on the first failure)
+public class AudioEngineCheck {
+    public static void main(String[] args) {
+        System.setProperty("snake.audio", "off");
+
+        // Silent fallback: disabled, and play() neither queues nor throws.
+        AudioEngine engine = AudioEngine.open();
+        expect("engine disabled", !engine.isEnabled());
+        for (AudioEngine.Cue c : AudioEngine.Cue.values()) engine.play(c);
+        expect("play() queues nothing", engine.events.isEmpty());
+        engine.shutdown();
+
+        // Voice limiting: once MAX_VOICES are playing, the oldest voice is replaced.
+        short[][] clips = new short[AudioEngine.MAX_VOICES + 2][];
+        for (int i = 0; i < clips.length; i++) clips[i] = new short[100];
+        for (int i = 0; i < AudioEngine.MAX_VOICES; i++) engine.startVoice(clips[i]);
+        for (int v = 0; v < AudioEngine.MAX_VOICES; v++) expect("voice " + v + " filled", engine.voiceClip[v] == clips[v]);
+        engine.startVoice(clips[AudioEngine.MAX_VOICES]);
+        expect("oldest voice stolen", engine.voiceClip[0] == clips[AudioEngine.MAX_VOICES]);
+        engine.startVoice(clips[AudioEngine.MAX_VOICES + 1]);
+        expect("next oldest stolen", engine.voiceClip[1] == clips[AudioEngine.MAX_VOICES + 1]);
+        expect("newer voices kept", engine.voiceClip[2] == clips[2] && engine.voiceClip[3] == clips[3]);
+
+        // Mixing: a lone voice comes out unchanged, overlapping voices sum and clamp,
+        // and a voice is freed once its clip has been mixed to the end.
+        AudioEngine mix = AudioEngine.open();
+        byte[] out = new byte[AudioEngine.BLOCK_FRAMES * 2];
+        short[] ramp = new short[AudioEngine.BLOCK_FRAMES + 10];
+        for (int i = 0; i < ramp.length; i++) ramp[i] = (short) (i * 100);
+        mix.startVoice(ramp);
+        mix.mixBlock(out);
+        expect("lone voice passes through", sample(out, 7) == 700);
+        expect("voice still playing", mix.anyVoiceActive());
+        mix.mixBlock(out);
+        expect("tail of clip", sample(out, 0) == AudioEngine.BLOCK_FRAMES * 100);
+        expect("silence after clip", sample(out, 10) == 0);
+        expect("voice freed", !mix.anyVoiceActive());
+        short[] loud = new short[AudioEngine.BLOCK_FRAMES];
+        java.util.Arrays.fill(loud, (short) 30000);
+        mix.startVoice(loud);
+        mix.startVoice(loud);
+        mix.mixBlock(out);
+        expect("sum clamps", sample(out, 0) == Short.MAX_VALUE);
+
+        // Pickup cues by value.
+        expect("10 -> low", AudioEngine.Cue.forPickup(10) == AudioEngine.Cue.PICKUP_LOW);
+        expect("24 -> low", AudioEngine.Cue.forPickup(24) == AudioEngine.Cue.PICKUP_LOW);
+        expect("25 -> mid", AudioEngine.Cue.forPickup(25) == AudioEngine.Cue.PICKUP_MID);
+        expect("49 -> mid", AudioEngine.Cue.forPickup(49) == AudioEngine.Cue.PICKUP_MID);
+        expect("50 -> high", AudioEngine.Cue.forPickup(50) == AudioEngine.Cue.PICKUP_HIGH);
+
+        // Clips are pre-synthesized at the expected length.
+        for (AudioEngine.Cue c : AudioEngine.Cue.values())
+            expect(c + " clip length", AudioEngine.synthesize(c).length == (int) (AudioEngine.SAMPLE_RATE * c.millis / 1000));
+
+        System.out.println("AudioEngineCheck: all checks passed");
+    }
+
+    static int sample(byte[] pcm, int frame) {
+        return (short) ((pcm[2 * frame] & 0xff) | (pcm[2 * frame + 1] << 8));
+    }
+
+    static void expect(String what, boolean ok) {
+        if (!ok) throw new AssertionError(what);
+    }
+}
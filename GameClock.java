@@ -0,0 +1,114 @@
+import java.util.function.LongSupplier;
+
+// Monotonic game clock: pausable, time-scalable, and sampled once per tick so
+// everything that runs inside a tick sees the same timestamp. Alongside scaled game
+// time it keeps unscaled (but still pause-aware) time for things that must last a
+// fixed number of real seconds regardless of slow-motion.
+public class GameClock {
+    private final LongSupplier nanoSource;
+
+    private long anchorNanos;   // real time of the last rebase
+    private long baseNanos;     // game time accumulated up to the last rebase
+    private long baseUnscaledNanos;
+    private double scale = 1.0;
+    private boolean paused = false;
+
+    private long tickNanos = 0;
+    private long tickUnscaledNanos = 0;
+    private long ticks = 0;
+
+    public GameClock() {
+        this(System::nanoTime);
+    }
+
+    public GameClock(LongSupplier nanoSource) {
+        this.nanoSource = nanoSource;
+        reset();
+    }
+
+    public void reset() {
+        anchorNanos = nanoSource.getAsLong();
+        baseNanos = 0;
+        baseUnscaledNanos = 0;
+        scale = 1.0;
+        paused = false;
+        tickNanos = 0;
+        tickUnscaledNanos = 0;
+        ticks = 0;
+    }
+
+    // Advances the tick counter and latches the current game time. Returns the tick timestamp in ms.
+    public long tick() {
+        long now = nanoSource.getAsLong();
+        tickNanos = elapsedNanos(now);
+        tickUnscaledNanos = unscaledNanos(now);
+        ticks++;
+        return tickNanos / 1_000_000L;
+    }
+
+    // Game time of the current tick.
+    public long millis() {
+        return tickNanos / 1_000_000L;
+    }
+
+    public long ticks() {
+        return ticks;
+    }
+
+    // Live game time, for rendering between ticks.
+    public long elapsedMillis() {
+        return elapsedNanos() / 1_000_000L;
+    }
+
+    // Unscaled, pause-aware time of the current tick.
+    public long unscaledMillis() {
+        return tickUnscaledNanos / 1_000_000L;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos(nanoSource.getAsLong());
+    }
+
+    private long elapsedNanos(long now) {
+        if (paused) return baseNanos;
+        return baseNanos + (long) ((now - anchorNanos) * scale);
+    }
+
+    private long unscaledNanos(long now) {
+        if (paused) return baseUnscaledNanos;
+        return baseUnscaledNanos + (now - anchorNanos);
+    }
+
+    public void pause() {
+        if (paused) return;
+        rebase();
+        paused = true;
+    }
+
+    public void resume() {
+        if (!paused) return;
+        anchorNanos = nanoSource.getAsLong();
+        paused = false;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setTimeScale(double s) {
+        if (s <= 0) throw new IllegalArgumentException("time scale must be positive: " + s);
+        if (!paused) rebase();
+        scale = s;
+    }
+
+    public double getTimeScale() {
+        return scale;
+    }
+
+    private void rebase() {
+        long now = nanoSource.getAsLong();
+        baseNanos += (long) ((now - anchorNanos) * scale);
+        baseUnscaledNanos += now - anchorNanos;
+        anchorNanos = now;
+    }
+}
@@ -0,0 +1,54 @@
+// Headless check of GameClock driven by a fake time source.
+// Run: java GameClockCheck   (exits non-zero on the first failure)
+public class GameClockCheck {
+    private static final long MS = 1_000_000L;
+    private static long now = 0;
+
+    public static void main(String[] args) {
+        GameClock c = new GameClock(() -> now);
+
+        // tick() latches: millis() stays put until the next tick.
+        now = 1000 * MS;
+        expect("first tick", 1000, c.tick());
+        now = 1500 * MS;
+        expect("millis latched between ticks", 1000, c.millis());
+        expect("live time moves", 1500, c.elapsedMillis());
+        expect("tick count", 1, c.ticks());
+
+        // Pause freezes game time; resume continues from where it stopped.
+        c.pause();
+        now = 9000 * MS;
+        expect("paused live time", 1500, c.elapsedMillis());
+        expect("tick while paused", 1500, c.tick());
+        c.resume();
+        now = 9500 * MS;
+        expect("resumed", 2000, c.tick());
+        expect("unscaled follows pauses", 2000, c.unscaledMillis());
+
+        // Scaling while running applies only from the moment it is set.
+        c.setTimeScale(0.5);
+        now = 11500 * MS;
+        expect("half speed", 3000, c.tick());
+        expect("unscaled ignores scale", 4000, c.unscaledMillis());
+
+        // Scaling while paused takes effect after resume, without moving time.
+        c.pause();
+        c.setTimeScale(2.0);
+        now = 20000 * MS;
+        expect("scale change while paused", 3000, c.tick());
+        c.resume();
+        now = 21000 * MS;
+        expect("double speed after resume", 5000, c.tick());
+        expect("unscaled after resume", 5000, c.unscaledMillis());
+
+        c.reset();
+        expect("reset clears ticks", 0, c.ticks());
+        expect("reset clears time", 0, c.elapsedMillis());
+
+        System.out.println("GameClockCheck: all checks passed");
+    }
+
+    static void expect(String what, long expected, long actual) {
+        if (expected != actual) throw new AssertionError(what + ": expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,250 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import java.util.concurrent.CompletableFuture;
+
+// Single-window launcher: one config screen instead of a chain of dialogs, with the
+// game classes, sprite atlas and audio warmed up in the background while the player chooses.
+//
+//   -Dsnake.classlist=FILE   also preload this class list on a background thread; off by
+//                            default, since measured it slows startup (AppCDS doesn't)
+//   -Dsnake.autostart=true   press Play with the defaults as soon as warm-up is done
+//   -Dsnake.benchmark=true   print startup timings and exit after the first game frame;
+//                            with -Djava.awt.headless=true the frame is painted offscreen
+public class Launcher {
+    static final String GAME_POWER_UPS = "Cute Snake (power-ups)";
+    static final String GAME_ACCURACY = "Accuracy & Reflex Tester";
+
+    static final boolean AUTOSTART = Boolean.getBoolean("snake.autostart");
+    static final boolean BENCHMARK = Boolean.getBoolean("snake.benchmark");
+
+    private final CompletableFuture<SpriteAtlas> atlas;
+    private JFrame frame;
+
+    public static void main(String[] args) {
+        // Opt-in: preloading runs beside warm-up rather than before it, so it never delays
+        // Play, but it still competes with warm-up for CPU and class loading locks.
+        String classList = System.getProperty("snake.classlist", "none");
+        if (!classList.equals("none")) {
+            Thread preload = new Thread(() -> {
+                int n = preloadClasses(Paths.get(classList));
+                if (BENCHMARK) report("class list preloaded (" + n + " classes)");
+            }, "snake-preload");
+            preload.setDaemon(true);
+            preload.setPriority(Thread.MIN_PRIORITY);
+            preload.start();
+        }
+
+        CompletableFuture<SpriteAtlas> atlas = CompletableFuture.supplyAsync(Launcher::warmUp)
+                .exceptionally(ex -> {
+                    ex.printStackTrace();
+                    return null;
+                });
+        if (GraphicsEnvironment.isHeadless()) {
+            if (!BENCHMARK) throw new HeadlessException("Launcher needs a display (or -Dsnake.benchmark=true)");
+            // No window to show: once warmed up, build the default game and paint its first frame offscreen.
+            atlas.thenRun(() -> SwingUtilities.invokeLater(() -> new Launcher(atlas).startOffscreen()));
+            return;
+        }
+        SwingUtilities.invokeLater(() -> new Launcher(atlas).showConfig());
+    }
+
+    Launcher(CompletableFuture<SpriteAtlas> atlas) {
+        this.atlas = atlas;
+    }
+
+    // Runs off the EDT: build the default atlas, open the audio line and push a few
+    // frames through the tile and HUD paths so Java2D loops and fonts are ready.
+    static SpriteAtlas warmUp() {
+        SpriteAtlas a = SimpleScoreManager.GamePanel.createAtlas(SimpleScoreManager.colorFor(SimpleScoreManager.COLORS[0]));
+        AudioEngine.get();
+
+        int w = SimpleScoreManager.GamePanel.WIDTH, h = SimpleScoreManager.GamePanel.HEIGHT;
+        int unit = SimpleScoreManager.GamePanel.UNIT;
+        BufferedImage scratch = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scratch.createGraphics();
+        for (int i = 0; i < 20; i++) {
+            g.drawImage(a.background(w, h, SimpleScoreManager.GamePanel.BACKGROUND), 0, 0, null);
+            for (SpriteAtlas.Dir d : SpriteAtlas.Dir.values()) {
+                a.drawHead(g, unit * d.ordinal(), 0, d);
+                a.drawBody(g, unit * d.ordinal(), unit, d);
+            }
+            a.drawObstacle(g, 0, unit * 2);
+            a.drawPowerUp(g, unit, unit * 2, 0);
+            a.drawCollectable(g, unit * 2, unit * 2, 10, Color.YELLOW);
+            a.drawCollectable(g, unit * 3, unit * 2, 25, Color.CYAN);
+            a.drawCollectable(g, unit * 4, unit * 2, 50, Color.MAGENTA);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(Color.WHITE);
+            g.setFont(SimpleScoreManager.GamePanel.HUD_FONT);
+            g.drawString("Score: " + i, 10, 20);
+            g.drawString(String.format("Time: %02d:%02d", 1, i), w - 160, 20);
+        }
+        g.dispose();
+        if (BENCHMARK) report("warm-up done");
+        return a;
+    }
+
+    // Replays a class list recorded with -XX:DumpLoadedClassList. Lines are internal
+    // names ("java/lang/Object id: 1 ..."); CDS-only lines start with '@' or '#'.
+    static int preloadClasses(Path list) {
+        if (!Files.isReadable(list)) return 0;
+        ClassLoader cl = Launcher.class.getClassLoader();
+        int n = 0;
+        try {
+            for (String line : Files.readAllLines(list)) {
+                if (line.isEmpty() || line.charAt(0) == '@' || line.charAt(0) == '#') continue;
+                int sp = line.indexOf(' ');
+                String name = (sp < 0 ? line : line.substring(0, sp)).replace('/', '.');
+                try {
+                    Class.forName(name, false, cl);
+                    n++;
+                } catch (ClassNotFoundException | LinkageError ignored) {
+                    // Lambda forms and hidden classes in the list can't be loaded by name.
+                }
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+        return n;
+    }
+
+    private void showConfig() {
+        frame = new JFrame(SnakeAccuracyTester.TITLE);
+        JComboBox<String> game = new JComboBox<>(new String[]{GAME_POWER_UPS, GAME_ACCURACY});
+        JComboBox<String> difficulty = new JComboBox<>();
+        JComboBox<String> color = new JComboBox<>();
+        JTextArea instr = new JTextArea();
+        instr.setEditable(false);
+        instr.setOpaque(false);
+
+        // Each game keeps its own modes, colours, default colour and instructions;
+        // the instructions follow the selected mode's profile (e.g. its time limit).
+        Runnable showInstructions = () -> {
+            boolean powerUps = game.getSelectedIndex() == 0;
+            String mode = (String) difficulty.getSelectedItem();
+            instr.setText(powerUps
+                    ? SimpleScoreManager.instructions(ModeProfiles.get(ModeProfiles.GAME_SNAKE, mode))
+                    : SnakeAccuracyTester.instructions(ModeProfiles.get(ModeProfiles.GAME_ACCURACY, mode)));
+            frame.pack();
+        };
+        Runnable showGame = () -> {
+            boolean powerUps = game.getSelectedIndex() == 0;
+            difficulty.setModel(new DefaultComboBoxModel<>(
+                    ModeProfiles.names(powerUps ? ModeProfiles.GAME_SNAKE : ModeProfiles.GAME_ACCURACY)));
+            difficulty.setSelectedItem(powerUps ? SimpleScoreManager.DEFAULT_MODE : SnakeAccuracyTester.DEFAULT_MODE);
+            color.setModel(new DefaultComboBoxModel<>(powerUps ? SimpleScoreManager.COLORS : SnakeAccuracyTester.COLORS));
+            showInstructions.run();
+        };
+        showGame.run();
+        game.addActionListener(e -> showGame.run());
+        difficulty.addActionListener(e -> showInstructions.run());
+
+        JPanel form = new JPanel(new GridLayout(0, 2, 8, 8));
+        form.add(new JLabel("Game:"));
+        form.add(game);
+        form.add(new JLabel("Mode:"));
+        form.add(difficulty);
+        form.add(new JLabel("Snake color:"));
+        form.add(color);
+
+        JLabel status = new JLabel("Loading…");
+        JButton play = new JButton("Play");
+        play.setEnabled(false);
+        play.addActionListener(e -> start((String) game.getSelectedItem(),
+                (String) difficulty.getSelectedItem(), (String) color.getSelectedItem()));
+        JPanel south = new JPanel(new BorderLayout(8, 8));
+        south.add(status, BorderLayout.CENTER);
+        south.add(play, BorderLayout.EAST);
+
+        JPanel root = new JPanel(new BorderLayout(12, 12));
+        root.setBorder(BorderFactory.createEmptyBorder(16, 16, 16, 16));
+        root.add(form, BorderLayout.NORTH);
+        root.add(instr, BorderLayout.CENTER);
+        root.add(south, BorderLayout.SOUTH);
+
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setResizable(false);
+        frame.setContentPane(root);
+        frame.getRootPane().setDefaultButton(play);
+        frame.pack();
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+        if (BENCHMARK) report("config screen shown");
+
+        // Play stays disabled until warm-up finishes, so starting a game never waits on the EDT.
+        atlas.thenRun(() -> SwingUtilities.invokeLater(() -> {
+            status.setText("Ready");
+            play.setEnabled(true);
+            if (AUTOSTART) play.doClick();
+        }));
+    }
+
+    private void start(String game, String mode, String colorName) {
+        JPanel panel = createGame(game, mode, colorName);
+        frame.setTitle(GAME_ACCURACY.equals(game) ? SnakeAccuracyTester.TITLE : SimpleScoreManager.TITLE);
+        frame.setContentPane(panel);
+        frame.pack();
+        frame.setLocationRelativeTo(null);
+        panel.requestFocusInWindow();
+    }
+
+    private void startOffscreen() {
+        JPanel panel = createGame(GAME_POWER_UPS, SimpleScoreManager.DEFAULT_MODE, SimpleScoreManager.COLORS[0]);
+        Dimension size = panel.getPreferredSize();
+        panel.setSize(size);
+        BufferedImage img = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        panel.paint(g);
+        g.dispose();
+    }
+
+    // Only called once warm-up has completed, so the atlas is ready (or null if warm-up failed).
+    private JPanel createGame(String game, String mode, String colorName) {
+        if (GAME_ACCURACY.equals(game)) {
+            return new SnakeAccuracyTester(SnakeAccuracyTester.colorFor(colorName), mode) {
+                boolean painted;
+
+                @Override
+                public void paintComponent(Graphics g) {
+                    super.paintComponent(g);
+                    if (!painted) {
+                        painted = true;
+                        firstFrame();
+                    }
+                }
+            };
+        }
+        Color snakeColor = SimpleScoreManager.colorFor(colorName);
+        SpriteAtlas a = atlas.getNow(null);
+        if (a == null) a = SimpleScoreManager.GamePanel.createAtlas(snakeColor);
+        SimpleScoreManager.GamePanel gp = new SimpleScoreManager.GamePanel(mode, a) {
+            boolean painted;
+
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                if (!painted) {
+                    painted = true;
+                    firstFrame();
+                }
+            }
+        };
+        gp.setSnakeColor(snakeColor);
+        return gp;
+    }
+
+    private static void firstFrame() {
+        if (!BENCHMARK) return;
+        report("first playable frame");
+        SwingUtilities.invokeLater(() -> System.exit(0));
+    }
+
+    // Milliseconds since JVM start, in a form StartupBenchmark can parse.
+    static void report(String event) {
+        System.out.println("startup " + ManagementFactory.getRuntimeMXBean().getUptime() + " ms: " + event);
+    }
+}
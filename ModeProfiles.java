@@ -0,0 +1,285 @@
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+// Game-mode profiles. The built-in Easy/Medium/Hard/Accuracy profiles live in BUILT_IN;
+// modes.properties (or -Dsnake.modes=FILE) only overrides them or adds new modes.
+// Everything is parsed once into immutable Profiles whose per-level values are
+// pre-computed tables, so the tick path only indexes arrays. get() re-reads the
+// file when it has changed, which games call between rounds, never mid-game.
+public class ModeProfiles {
+    static final Path FILE = Paths.get(System.getProperty("snake.modes", "modes.properties"));
+    static final String GAME_SNAKE = "snake";
+    static final String GAME_ACCURACY = "accuracy";
+    static final int MAX_LEVELS = 1024;
+    static final int WEIGHT_SLOTS = 100;
+
+    // Settings are <mode>.<key>; a mode takes any key it leaves out from default.<key>.
+    static final String BUILT_IN = """
+            modes = Easy, Medium, Hard, Accuracy
+
+            default.game = snake
+            default.timeLimitMs = 120000
+            default.tickMs = 16.67
+            default.tickStepMs = 0
+            default.minTickMs = 6
+            default.obstacles = 4
+            default.obstacleStep = 1
+            default.maxObstacles = 80
+            default.values = 10, 25, 50
+            default.foodMin = 10
+            default.foodMax = 50
+            default.powerUpChance = 0.005
+            default.maxPowerUps = 2
+            default.powerUpWeights = 1, 1, 1
+            default.powerUpDurationMs = 10000
+            default.slowFactor = 1.6
+
+            Easy.tickMs = 18.52
+            Easy.obstacles = 2
+
+            Hard.tickMs = 14.49
+            Hard.obstacles = 8
+
+            Accuracy.game = accuracy
+            Accuracy.tickMs = 80
+            Accuracy.tickStepMs = 3
+            Accuracy.minTickMs = 30
+            Accuracy.maxObstacles = 400
+            """;
+
+    private static Map<String, Profile> profiles;
+    private static FileTime loadedAt;
+
+    // The named profile if it belongs to this game, otherwise the game's first profile.
+    public static synchronized Profile get(String game, String mode) {
+        reloadIfChanged();
+        Profile p = profiles.get(mode);
+        if (p != null && p.game.equals(game)) return p;
+        for (Profile q : profiles.values()) if (q.game.equals(game)) return q;
+        throw new IllegalStateException("no profile for game " + game);
+    }
+
+    // Mode names for one game, in declaration order.
+    public static synchronized String[] names(String game) {
+        reloadIfChanged();
+        List<String> names = new ArrayList<>();
+        for (Profile p : profiles.values()) if (p.game.equals(game)) names.add(p.name);
+        return names.toArray(new String[0]);
+    }
+
+    private static void reloadIfChanged() {
+        FileTime mtime = null;
+        try {
+            if (Files.exists(FILE)) mtime = Files.getLastModifiedTime(FILE);
+        } catch (IOException ignored) {
+        }
+        if (profiles != null && Objects.equals(mtime, loadedAt)) return;
+
+        Properties overrides = new Properties();
+        if (mtime != null) {
+            try (Reader r = Files.newBufferedReader(FILE)) {
+                overrides.load(r);
+            } catch (IOException ex) {
+                // Possibly mid-save: keep what we have and try again next time.
+                System.err.println("Could not read " + FILE + ": " + ex);
+                if (profiles == null) profiles = parse(new Properties());
+                return;
+            }
+        }
+        try {
+            profiles = parse(overrides);
+        } catch (IllegalArgumentException ex) {
+            // A bad edit keeps the profiles already in use; on first load fall back to the built-ins.
+            System.err.println("Ignoring " + FILE + ": " + ex.getMessage());
+            if (profiles == null) profiles = parse(new Properties());
+        }
+        loadedAt = mtime;
+    }
+
+    // Built-in profiles with the given overrides layered on top.
+    static Map<String, Profile> parse(Properties overrides) {
+        Properties builtIn = new Properties();
+        try {
+            builtIn.load(new StringReader(BUILT_IN));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        Properties p = new Properties(builtIn);
+        p.putAll(overrides);
+
+        // Built-in modes always exist; the file's modes list can only add to them.
+        Set<String> names = new LinkedHashSet<>();
+        for (String list : new String[]{builtIn.getProperty("modes"), overrides.getProperty("modes", "")})
+            for (String name : list.split(",")) if (!name.trim().isEmpty()) names.add(name.trim());
+
+        Map<String, Profile> map = new LinkedHashMap<>();
+        for (String name : names) map.put(name, new Profile(name, p));
+        return Collections.unmodifiableMap(map);
+    }
+
+    public static final class Profile {
+        public final String name;
+        public final String game;
+        public final long timeLimitMs;
+        private final int[] collectValues;
+        public final int foodMin;
+        public final int foodMax;
+        public final double powerUpChance;
+        public final int maxPowerUps;
+        public final int powerUpDurationMs;
+        public final double slowFactor;
+
+        // Indexed by level (pickups so far); the last entry holds once the ramp saturates.
+        private final int[] tickDelay;
+        private final int[] obstacleCount;
+        // Power-up type ordinals repeated in proportion to their weights.
+        private final int[] powerUpTable;
+
+        Profile(String name, Properties p) {
+            this.name = name;
+            game = raw(p, name, "game", GAME_SNAKE);
+            if (!game.equals(GAME_SNAKE) && !game.equals(GAME_ACCURACY))
+                throw new IllegalArgumentException(name + ".game: must be " + GAME_SNAKE + " or " + GAME_ACCURACY);
+            timeLimitMs = integer(p, name, "timeLimitMs", 1);
+            collectValues = ints(p, name, "values");
+            foodMin = (int) integer(p, name, "foodMin", 0);
+            foodMax = (int) integer(p, name, "foodMax", foodMin);
+            powerUpChance = num(p, name, "powerUpChance");
+            if (powerUpChance < 0 || powerUpChance > 1)
+                throw new IllegalArgumentException(name + ".powerUpChance: must be between 0 and 1");
+            maxPowerUps = (int) integer(p, name, "maxPowerUps", 0);
+            powerUpDurationMs = (int) integer(p, name, "powerUpDurationMs", 1);
+            slowFactor = num(p, name, "slowFactor");
+            if (slowFactor <= 0) throw new IllegalArgumentException(name + ".slowFactor: must be positive");
+
+            double tick = num(p, name, "tickMs");
+            double tickStep = num(p, name, "tickStepMs");
+            double minTick = num(p, name, "minTickMs");
+            if (minTick < 1) throw new IllegalArgumentException(name + ".minTickMs: must be at least 1");
+            if (tick < minTick) throw new IllegalArgumentException(name + ".tickMs: must be at least minTickMs");
+            if (tickStep < 0) throw new IllegalArgumentException(name + ".tickStepMs: must not be negative");
+            int obstacles = (int) integer(p, name, "obstacles", 0);
+            int obstacleStep = (int) integer(p, name, "obstacleStep", 0);
+            int maxObstacles = (int) integer(p, name, "maxObstacles", obstacles);
+
+            int tickLevels = tickStep > 0 ? (int) Math.ceil((tick - minTick) / tickStep) : 0;
+            int obsLevels = obstacleStep > 0 ? (maxObstacles - obstacles + obstacleStep - 1) / obstacleStep : 0;
+            int levels = Math.max(tickLevels, obsLevels) + 1;
+            if (levels > MAX_LEVELS)
+                throw new IllegalArgumentException(name + ": ramp needs " + levels + " levels, more than " + MAX_LEVELS);
+            tickDelay = new int[levels];
+            obstacleCount = new int[levels];
+            for (int i = 0; i < levels; i++) {
+                tickDelay[i] = (int) Math.max(minTick, tick - tickStep * i);
+                obstacleCount[i] = Math.min(maxObstacles, obstacles + obstacleStep * i);
+            }
+
+            // One weight per power-up type: slow, shield, multiplier.
+            double[] w = doubles(p, name, "powerUpWeights");
+            if (w.length != 3) throw new IllegalArgumentException(name + ".powerUpWeights: needs 3 entries");
+            double sum = 0;
+            for (double x : w) {
+                if (x < 0) throw new IllegalArgumentException(name + ".powerUpWeights: must not be negative");
+                sum += x;
+            }
+            if (sum <= 0) throw new IllegalArgumentException(name + ".powerUpWeights: needs a positive entry");
+            List<Integer> slots = new ArrayList<>();
+            for (int i = 0; i < w.length; i++) {
+                long n = w[i] > 0 ? Math.max(1, Math.round(w[i] / sum * WEIGHT_SLOTS)) : 0;
+                for (int k = 0; k < n; k++) slots.add(i);
+            }
+            powerUpTable = slots.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        public int[] collectValues() {
+            return collectValues.clone();
+        }
+
+        public int tickDelay(int level) {
+            return tickDelay[Math.min(level, tickDelay.length - 1)];
+        }
+
+        public int obstacleCount(int level) {
+            return obstacleCount[Math.min(level, obstacleCount.length - 1)];
+        }
+
+        int levels() {
+            return tickDelay.length;
+        }
+
+        // Weighted power-up type ordinal.
+        public int rollPowerUp(Random rnd) {
+            return powerUpTable[rnd.nextInt(powerUpTable.length)];
+        }
+
+        // In long: foodMax - foodMin + 1 can exceed Integer.MAX_VALUE.
+        public int rollFoodValue(Random rnd) {
+            return (int) rnd.nextLong(foodMin, (long) foodMax + 1);
+        }
+
+        // Whether pickups ever shorten the tick or add obstacles, for instruction text.
+        public boolean speedsUp() {
+            return tickDelay[tickDelay.length - 1] < tickDelay[0];
+        }
+
+        public boolean addsObstacles() {
+            return obstacleCount[obstacleCount.length - 1] > obstacleCount[0];
+        }
+
+        // "2 minutes", "90 seconds": for instruction text.
+        public String timeLimitText() {
+            long s = timeLimitMs / 1000;
+            if (s >= 60 && s % 60 == 0) return s / 60 + (s == 60 ? " minute" : " minutes");
+            return s + (s == 1 ? " second" : " seconds");
+        }
+
+        // Every key has a built-in default, so a missing key is a bug, not a user error.
+        private static String raw(Properties p, String mode, String key, String fallback) {
+            String v = p.getProperty(mode + "." + key);
+            if (v == null) v = p.getProperty("default." + key, fallback);
+            if (v == null) throw new IllegalStateException("no built-in default for " + key);
+            return v.trim();
+        }
+
+        private static double num(Properties p, String mode, String key) {
+            String v = raw(p, mode, key, null);
+            try {
+                return Double.parseDouble(v);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(mode + "." + key + ": not a number: " + v);
+            }
+        }
+
+        private static long integer(Properties p, String mode, String key, long min) {
+            double d = num(p, mode, key);
+            if (d != Math.rint(d) || Math.abs(d) > Integer.MAX_VALUE)
+                throw new IllegalArgumentException(mode + "." + key + ": not a whole number: " + raw(p, mode, key, null));
+            if (d < min) throw new IllegalArgumentException(mode + "." + key + ": must be at least " + min);
+            return (long) d;
+        }
+
+        private static double[] doubles(Properties p, String mode, String key) {
+            String[] parts = raw(p, mode, key, null).split(",");
+            double[] out = new double[parts.length];
+            try {
+                for (int i = 0; i < parts.length; i++) out[i] = Double.parseDouble(parts[i].trim());
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(mode + "." + key + ": not a number list");
+            }
+            return out;
+        }
+
+        private static int[] ints(Properties p, String mode, String key) {
+            double[] d = doubles(p, mode, key);
+            int[] out = new int[d.length];
+            for (int i = 0; i < d.length; i++) {
+                if (d[i] != Math.rint(d[i]) || d[i] < 1 || d[i] > Integer.MAX_VALUE)
+                    throw new IllegalArgumentException(mode + "." + key + ": values must be positive whole numbers");
+                out[i] = (int) d[i];
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+// Headless check of ModeProfiles: the built-ins, the shipped modes.properties,
+// fallback without a file, food rolls, instruction text, validation, hot reload
+// and read failures.
+// Run from the project directory: java ModeProfilesCheck   (exits non-zero on the first failure)
+public class ModeProfilesCheck {
+    public static void main(String[] args) throws IOException {
+        // Point ModeProfiles at a scratch file before the class initialises.
+        Path dir = Files.createTempDirectory("modes");
+        Path file = dir.resolve("modes.properties");
+        System.setProperty("snake.modes", file.toString());
+
+        // Built-ins reproduce the constants the games used before profiles existed.
+        Map<String, ModeProfiles.Profile> builtIn = ModeProfiles.parse(new Properties());
+        expect("built-in modes", "[Easy, Medium, Hard, Accuracy]", builtIn.keySet().toString());
+        expect("Easy tick", 18, builtIn.get("Easy").tickDelay(0));
+        expect("Medium tick", 16, builtIn.get("Medium").tickDelay(0));
+        expect("Hard tick", 14, builtIn.get("Hard").tickDelay(0));
+        expect("Easy obstacles", 2, builtIn.get("Easy").obstacleCount(0));
+        expect("Medium obstacles", 4, builtIn.get("Medium").obstacleCount(0));
+        expect("Hard obstacles", 8, builtIn.get("Hard").obstacleCount(0));
+        expect("snake time limit", 120000, builtIn.get("Medium").timeLimitMs);
+        expect("time limit text", "2 minutes", builtIn.get("Medium").timeLimitText());
+        ModeProfiles.Profile acc = builtIn.get("Accuracy");
+        expect("Accuracy game", ModeProfiles.GAME_ACCURACY, acc.game);
+        expect("Accuracy start tick", 80, acc.tickDelay(0));
+        expect("Accuracy tick after 10", 50, acc.tickDelay(10));
+        expect("Accuracy tick floor", 30, acc.tickDelay(17));
+        expect("Accuracy tick saturates", 30, acc.tickDelay(5000));
+        expect("Accuracy obstacles", 4, acc.obstacleCount(0));
+        expect("Accuracy obstacles grow", 14, acc.obstacleCount(10));
+
+        // The shipped modes.properties only overrides, so it yields the built-ins unchanged.
+        Map<String, ModeProfiles.Profile> shipped = ModeProfiles.parse(load(Paths.get("modes.properties")));
+        expect("shipped modes", builtIn.keySet().toString(), shipped.keySet().toString());
+        for (ModeProfiles.Profile p : builtIn.values()) {
+            ModeProfiles.Profile q = shipped.get(p.name);
+            expect(p.name + " shipped tick", p.tickDelay(0), q.tickDelay(0));
+            expect(p.name + " shipped levels", p.levels(), q.levels());
+            expect(p.name + " shipped game", p.game, q.game);
+        }
+
+        // Missing file: the built-ins, each game sees only its own modes, and unknown modes fall back per game.
+        expect("names for snake", "[Easy, Medium, Hard]", Arrays.toString(ModeProfiles.names(ModeProfiles.GAME_SNAKE)));
+        expect("names for accuracy", "[Accuracy]", Arrays.toString(ModeProfiles.names(ModeProfiles.GAME_ACCURACY)));
+        expect("Accuracy from file-less load", 80, ModeProfiles.get(ModeProfiles.GAME_ACCURACY, "Accuracy").tickDelay(0));
+        expect("unknown snake mode", "Easy", ModeProfiles.get(ModeProfiles.GAME_SNAKE, "Nope").name);
+        expect("other game's mode", "Accuracy", ModeProfiles.get(ModeProfiles.GAME_ACCURACY, "Hard").name);
+
+        // The widest food range the validator accepts still rolls without overflow.
+        Properties wide = new Properties();
+        wide.setProperty("Accuracy.foodMin", "0");
+        wide.setProperty("Accuracy.foodMax", String.valueOf(Integer.MAX_VALUE));
+        ModeProfiles.Profile w = ModeProfiles.parse(wide).get("Accuracy");
+        Random rnd = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            int v = w.rollFoodValue(rnd);
+            if (v < 0) throw new AssertionError("food roll out of range: " + v);
+        }
+        expect("single-value food range", 7, ModeProfiles.parse(props("Accuracy.foodMin", "7", "Accuracy.foodMax", "7"))
+                .get("Accuracy").rollFoodValue(rnd));
+
+        // Instructions only promise the ramps a profile actually has.
+        expect("built-in ramps", true, acc.speedsUp() && acc.addsObstacles());
+        expect("snake speed is flat", false, builtIn.get("Medium").speedsUp());
+        ModeProfiles.Profile flat = ModeProfiles.parse(props("Accuracy.tickStepMs", "0", "Accuracy.obstacleStep", "0"))
+                .get("Accuracy");
+        expect("flat ramp", false, flat.speedsUp() || flat.addsObstacles());
+        expect("tester text, flat", false, SnakeAccuracyTester.instructions(flat).contains("speeds"));
+        expect("tester text, ramps", true,
+                SnakeAccuracyTester.instructions(acc).contains("Every pickup speeds the snake up and adds obstacles."));
+        expect("snake text", true,
+                SimpleScoreManager.instructions(builtIn.get("Medium")).contains("Each score increases obstacles and repositions points."));
+
+        // Validation: each bad value is rejected rather than clamped or truncated.
+        rejects("fractional obstacles", "Easy.obstacles", "2.5");
+        rejects("fractional time limit", "Easy.timeLimitMs", "1000.5");
+        rejects("fractional value", "Easy.values", "10, 25.5");
+        rejects("zero tick", "Easy.tickMs", "0");
+        rejects("zero min tick", "Easy.minTickMs", "0");
+        rejects("negative tick step", "Easy.tickStepMs", "-1");
+        rejects("negative time limit", "Easy.timeLimitMs", "-5");
+        rejects("negative max power-ups", "Easy.maxPowerUps", "-1");
+        rejects("zero power-up duration", "Easy.powerUpDurationMs", "0");
+        rejects("chance above 1", "Easy.powerUpChance", "1.5");
+        rejects("food range", "Easy.foodMax", "5");
+        rejects("unknown game", "Easy.game", "chess");
+        rejects("not a number", "Easy.tickMs", "fast");
+        rejects("ramp longer than MAX_LEVELS", "Easy.maxObstacles", "5000");
+
+        // Hot reload: a changed file adds a mode; an unchanged mtime is not re-read.
+        Files.writeString(file, "modes = Insane\nInsane.tickMs = 10\nEasy.obstacles = 3\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+        expect("reloaded names", "[Easy, Medium, Hard, Insane]", Arrays.toString(ModeProfiles.names(ModeProfiles.GAME_SNAKE)));
+        expect("new mode tick", 10, ModeProfiles.get(ModeProfiles.GAME_SNAKE, "Insane").tickDelay(0));
+        expect("override", 3, ModeProfiles.get(ModeProfiles.GAME_SNAKE, "Easy").obstacleCount(0));
+
+        // A bad edit is ignored and the previous profiles stay.
+        Files.writeString(file, "Easy.obstacles = 3.5\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+        expect("bad edit keeps profiles", 3, ModeProfiles.get(ModeProfiles.GAME_SNAKE, "Easy").obstacleCount(0));
+
+        // A read failure (here the file replaced by a directory) keeps the profiles and retries later.
+        Files.delete(file);
+        Files.createDirectory(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(3_000_000));
+        expect("I/O failure keeps profiles", 3, ModeProfiles.get(ModeProfiles.GAME_SNAKE, "Easy").obstacleCount(0));
+        expect("I/O failure keeps modes", "[Easy, Medium, Hard, Insane]", Arrays.toString(ModeProfiles.names(ModeProfiles.GAME_SNAKE)));
+        Files.delete(file);
+        Files.writeString(file, "Easy.obstacles = 6\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(3_000_000));
+        expect("retried after I/O failure", 6, ModeProfiles.get(ModeProfiles.GAME_SNAKE, "Easy").obstacleCount(0));
+
+        // Deleting the file drops back to the built-ins.
+        Files.delete(file);
+        expect("file removed", 2, ModeProfiles.get(ModeProfiles.GAME_SNAKE, "Easy").obstacleCount(0));
+        Files.delete(dir);
+
+        System.out.println("ModeProfilesCheck: all checks passed");
+    }
+
+    static Properties load(Path path) throws IOException {
+        Properties p = new Properties();
+        try (Reader r = Files.newBufferedReader(path)) {
+            p.load(r);
+        }
+        return p;
+    }
+
+    static Properties props(String... keyValues) {
+        Properties p = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) p.setProperty(keyValues[i], keyValues[i + 1]);
+        return p;
+    }
+
+    static void rejects(String what, String key, String value) {
+        Properties p = new Properties();
+        p.setProperty(key, value);
+        try {
+            ModeProfiles.parse(p);
+        } catch (IllegalArgumentException expected) {
+            return;
+        }
+        throw new AssertionError(what + ": " + key + " = " + value + " was accepted");
+    }
+
+    static void expect(String what, Object expected, Object actual) {
+        if (!Objects.equals(expected, actual))
+            throw new AssertionError(what + ": expected " + expected + " but was " + actual);
+    }
+
+    static void expect(String what, long expected, long actual) {
+        if (expected != actual) throw new AssertionError(what + ": expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,134 @@
+import java.awt.*;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+
+// Measures GamePanel frame time as the snake grows, side by side with the draw path
+// it replaced (shapes, fonts and LinkedList.get(i) per frame), and reports the
+// per-segment cost and the 800-to-3-segment median frame time ratio of each. The game keeps
+// the body in a persistent layer, so its ratio should stay close to 1.
+// Run: java -Djava.awt.headless=true RenderBenchmark [frames]
+public class RenderBenchmark {
+    public static void main(String[] args) {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int[] lengths = {3, 50, 100, 200, 400, 800};
+
+        SimpleScoreManager.GamePanel game = new SimpleScoreManager.GamePanel("Medium", Color.GREEN);
+        game.timer.stop();
+        game.setSize(SimpleScoreManager.GamePanel.WIDTH, SimpleScoreManager.GamePanel.HEIGHT);
+
+        BufferedImage target = new BufferedImage(game.getWidth(), game.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+
+        // Warm up both paths so the JIT has compiled them before anything is timed.
+        grow(game, lengths[lengths.length - 1]);
+        for (int i = 0; i < frames; i++) {
+            game.paintComponent(g);
+            legacyDraw(game, g);
+        }
+
+        double[] legacy = new double[lengths.length];
+        double[] atlas = new double[lengths.length];
+        System.out.printf("%10s %16s %16s %16s %16s%n", "segments",
+                "legacy median us", "legacy p99 us", "atlas median us", "atlas p99 us");
+        for (int i = 0; i < lengths.length; i++) {
+            grow(game, lengths[i]);
+            // A short untimed pass per length so the first row isn't skewed by leftover JIT and GC work.
+            time(frames / 4, () -> legacyDraw(game, g));
+            time(frames / 4, () -> game.paintComponent(g));
+            long[] old = time(frames, () -> legacyDraw(game, g));
+            long[] now = time(frames, () -> game.paintComponent(g));
+            legacy[i] = median(old);
+            atlas[i] = median(now);
+            System.out.printf("%10d %16.1f %16.1f %16.1f %16.1f%n", lengths[i],
+                    legacy[i], p99(old), atlas[i], p99(now));
+        }
+        int last = lengths.length - 1;
+        double span = lengths[last] - lengths[0];
+        System.out.printf("per-segment cost: legacy %.0f ns, atlas %.0f ns%n",
+                (legacy[last] - legacy[0]) * 1000 / span, (atlas[last] - atlas[0]) * 1000 / span);
+        System.out.printf("%d vs %d segments: legacy %.2fx, atlas %.2fx%n", lengths[last], lengths[0],
+                legacy[last] / legacy[0], atlas[last] / atlas[0]);
+        g.dispose();
+        System.exit(0);
+    }
+
+    private static long[] time(int frames, Runnable frame) {
+        long[] samples = new long[frames];
+        for (int i = 0; i < frames; i++) {
+            long t0 = System.nanoTime();
+            frame.run();
+            samples[i] = System.nanoTime() - t0;
+        }
+        java.util.Arrays.sort(samples);
+        return samples;
+    }
+
+    // Medians rather than means, so an occasional GC pause doesn't skew the comparison.
+    private static double median(long[] sorted) {
+        return sorted[sorted.length / 2] / 1000.0;
+    }
+
+    private static double p99(long[] sorted) {
+        return sorted[(int) (sorted.length * 0.99)] / 1000.0;
+    }
+
+    // The GamePanel.draw body from before the sprite atlas, kept here as the baseline.
+    private static void legacyDraw(SimpleScoreManager.GamePanel p, Graphics2D g) {
+        int width = SimpleScoreManager.GamePanel.WIDTH, height = SimpleScoreManager.GamePanel.HEIGHT;
+        int unit = SimpleScoreManager.GamePanel.UNIT;
+        g.setColor(SimpleScoreManager.GamePanel.BACKGROUND);
+        g.fillRect(0, 0, width, height);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        g.setColor(new Color(30, 30, 30));
+        for (int x = 0; x < width; x += unit) g.drawLine(x, 0, x, height);
+        for (int y = 0; y < height; y += unit) g.drawLine(0, y, width, y);
+
+        g.setColor(Color.GREEN);
+        for (int i = 0; i < p.snake.size(); i++) {
+            Point s = p.snake.get(i);
+            if (i == 0) g.fill(new RoundRectangle2D.Float(s.x, s.y, unit, unit, 8, 8));
+            else g.fillRect(s.x, s.y, unit, unit);
+        }
+
+        for (SimpleScoreManager.GamePanel.Collectable c : p.collects) {
+            if (c.pos == null) continue;
+            g.setColor(c.color);
+            int pad = 4;
+            g.fillOval(c.pos.x + pad / 2, c.pos.y + pad / 2, unit - pad, unit - pad);
+            g.setColor(Color.BLACK);
+            g.setFont(new Font("SansSerif", Font.BOLD, 11));
+            FontMetrics fm = g.getFontMetrics();
+            String s = String.valueOf(c.value);
+            g.drawString(s, c.pos.x + (unit - fm.stringWidth(s)) / 2, c.pos.y + ((unit - fm.getHeight()) / 2) + fm.getAscent());
+        }
+
+        g.setColor(new Color(80, 80, 80));
+        for (Rectangle r : p.obstacles) g.fillRect(r.x, r.y, r.width, r.height);
+
+        for (SimpleScoreManager.GamePanel.PowerUp pu : p.powerUps) {
+            if (pu.pos == null) continue;
+            g.setColor(pu.color);
+            g.fillOval(pu.pos.x + 2, pu.pos.y + 2, unit - 4, unit - 4);
+        }
+
+        g.setColor(Color.WHITE);
+        g.setFont(new Font("Consolas", Font.BOLD, 16));
+        g.drawString("Score: " + p.score, 10, 20);
+        long rem = Math.max(0, p.timeLimit - p.clock.elapsedMillis());
+        g.drawString(String.format("Time: %02d:%02d", rem / 60000, (rem / 1000) % 60), width - 160, 20);
+    }
+
+    // Lays the snake out as a boustrophedon across the board so segments don't overlap.
+    private static void grow(SimpleScoreManager.GamePanel game, int len) {
+        int unit = SimpleScoreManager.GamePanel.UNIT;
+        int cols = SimpleScoreManager.GamePanel.WIDTH / unit;
+        game.snake.clear();
+        for (int i = 0; i < len; i++) {
+            int row = i / cols, col = i % cols;
+            if (row % 2 == 1) col = cols - 1 - col;
+            game.snake.add(new Point(col * unit, row * unit));
+        }
+        game.rebuildBodyLayer();
+    }
+}
@@ -2,34 +2,59 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.List;
 
 public class SimpleScoreManager {
+    static final String TITLE = "Cute Snake — Accuracy Tester (SimpleScoreManager)";
+    static final String DEFAULT_MODE = "Medium";
+    static final String[] COLORS = {"Green", "Red", "Blue", "White", "Orange"};
+
+    static String instructions(ModeProfiles.Profile p) {
+        return """
+                Arrow keys to move.
+                Collect colored points (showing value).
+                Power-ups appear occasionally: Slow Time, Shield, Multiplier.
+                %s
+                Time limit: %s. P to pause, R to restart.
+                Your score is saved to scores.csv on death.
+                """.formatted(rampText(p), p.timeLimitText());
+    }
+
+    private static String rampText(ModeProfiles.Profile p) {
+        if (p.speedsUp() && p.addsObstacles())
+            return "Each score speeds the snake up, increases obstacles and repositions points.";
+        if (p.speedsUp()) return "Each score speeds the snake up and repositions points.";
+        if (p.addsObstacles()) return "Each score increases obstacles and repositions points.";
+        return "Each score repositions points.";
+    }
+
+    static Color colorFor(String name) {
+        return switch (name == null ? "Green" : name) {
+            case "Red" -> Color.RED;
+            case "Blue" -> Color.BLUE;
+            case "White" -> Color.WHITE;
+            case "Orange" -> Color.ORANGE;
+            default -> Color.GREEN;
+        };
+    }
+
     public static void main(String[] args) {
         SwingUtilities.invokeLater(() -> {
             // Difficulty selection
-            String[] diffs = {"Easy", "Medium", "Hard"};
             String diff = (String) JOptionPane.showInputDialog(null, "Choose difficulty:", "Difficulty",
-                    JOptionPane.PLAIN_MESSAGE, null, diffs, diffs[1]);
-            if (diff == null) diff = "Medium";
+                    JOptionPane.PLAIN_MESSAGE, null, ModeProfiles.names(ModeProfiles.GAME_SNAKE), DEFAULT_MODE);
+            if (diff == null) diff = DEFAULT_MODE;
 
             // Snake color
-            String[] colors = {"Green", "Red", "Blue", "White", "Orange"};
             String chosen = (String) JOptionPane.showInputDialog(null, "Choose your snake color:", "Color",
-                    JOptionPane.PLAIN_MESSAGE, null, colors, colors[0]);
-            Color snakeColor = switch (chosen == null ? "Green" : chosen) {
-                case "Red" -> Color.RED;
-                case "Blue" -> Color.BLUE;
-                case "White" -> Color.WHITE;
-                case "Orange" -> Color.ORANGE;
-                default -> Color.GREEN;
-            };
-
-            JFrame frame = new JFrame("Cute Snake — Accuracy Tester (SimpleScoreManager)");
+                    JOptionPane.PLAIN_MESSAGE, null, COLORS, COLORS[0]);
+            Color snakeColor = colorFor(chosen);
+
+            JFrame frame = new JFrame(TITLE);
             GamePanel game = new GamePanel(diff, snakeColor);
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
             frame.setResizable(false);
@@ -38,15 +63,7 @@ public class SimpleScoreManager {
             frame.setLocationRelativeTo(null);
             frame.setVisible(true);
 
-            String instr = """
-                    Arrow keys to move.
-                    Collect colored points (showing value).
-                    Power-ups appear occasionally: Slow Time, Shield, Multiplier.
-                    Each score increases obstacles and repositions points.
-                    Time limit: 2 minutes. P to pause, R to restart.
-                    Your score is saved to scores.csv on death.
-                    """;
-            JOptionPane.showMessageDialog(frame, instr, "Instructions", JOptionPane.INFORMATION_MESSAGE);
+            JOptionPane.showMessageDialog(frame, instructions(game.profile), "Instructions", JOptionPane.INFORMATION_MESSAGE);
         });
     }
 
@@ -111,56 +128,95 @@ public class SimpleScoreManager {
         static final int WIDTH = 900;
         static final int HEIGHT = 600;
         static final int UNIT = 20;
-        static final int FPS = 60;
+        static final Color BACKGROUND = new Color(12, 12, 12);
+        static final Font HUD_FONT = new Font("Consolas", Font.BOLD, 16);
+        static final Font TITLE_FONT = new Font("SansSerif", Font.BOLD, 36);
+        static final Font MESSAGE_FONT = new Font("SansSerif", Font.PLAIN, 20);
+        static final Color[] COLLECT_COLORS = {Color.YELLOW, Color.CYAN, Color.MAGENTA};
 
         LinkedList<Point> snake = new LinkedList<>();
         Direction dir = Direction.RIGHT;
         boolean running = false;
         javax.swing.Timer timer; // fixed ambiguous Timer
         int score = 0;
-        long startTime;
-        final long timeLimit = 2 * 60 * 1000;
-        Color snakeColor;
+        GameClock clock = new GameClock();
+        long timeLimit;
+        SpriteAtlas atlas;
+        // Background plus every body segment behind the head, kept up to date a tile at a
+        // time as the snake moves, so a frame blits it once whatever the snake's length.
+        // bodyCells counts the layer's segments per board cell, so a vacated tail cell is
+        // cleared only when no other segment still covers it.
+        BufferedImage bodyLayer;
+        final int[] bodyCells = new int[(WIDTH / UNIT) * (HEIGHT / UNIT)];
+        AudioEngine audio = AudioEngine.get();
         Random rnd = new Random();
 
         List<Rectangle> obstacles = new ArrayList<>();
         List<Collectable> collects = new ArrayList<>();
         PowerUp activePower = null;
         List<PowerUp> powerUps = new ArrayList<>();
+        boolean shieldContact = false; // head was inside an obstacle/segment on the previous tick
 
-        int initialObs = 4;
-        int maxObs = 80;
-        int obsIncrease = 1;
-
-        double speedMultiplier = 1.0;
-        int extraObstacles = 0;
+        final String mode;
+        ModeProfiles.Profile profile;
+        int level = 0;
 
         public GamePanel(String difficulty, Color snakeColor) {
-            this.snakeColor = snakeColor;
+            this(difficulty, createAtlas(snakeColor));
+        }
+
+        public GamePanel(String difficulty, SpriteAtlas atlas) {
+            this.mode = difficulty;
+            this.atlas = atlas;
             setPreferredSize(new Dimension(WIDTH, HEIGHT));
-            setBackground(new Color(12, 12, 12));
+            setBackground(BACKGROUND);
             setFocusable(true);
             addKeyListener(this);
 
-            switch (difficulty) {
-                case "Easy" -> {
-                    speedMultiplier = 0.9;
-                    extraObstacles = -2;
-                }
-                case "Hard" -> {
-                    speedMultiplier = 1.15;
-                    extraObstacles = 4;
-                }
-                default -> {
-                    speedMultiplier = 1.0;
-                    extraObstacles = 0;
+            initGame();
+        }
+
+        static SpriteAtlas createAtlas(Color snakeColor) {
+            return new SpriteAtlas(UNIT, snakeColor, PowerUp.colorFor(PowerUp.Type.SLOW),
+                    PowerUp.colorFor(PowerUp.Type.SHIELD), PowerUp.colorFor(PowerUp.Type.MULTIPLIER));
+        }
+
+        public void setSnakeColor(Color c) {
+            atlas.setSnakeColor(c);
+            rebuildBodyLayer();
+            repaint();
+        }
+
+        // Redraws the whole layer from the snake; for a new game or when the snake is replaced wholesale.
+        void rebuildBodyLayer() {
+            if (bodyLayer == null) bodyLayer = SpriteAtlas.createImage(WIDTH, HEIGHT, Transparency.OPAQUE);
+            Arrays.fill(bodyCells, 0);
+            Graphics2D g = bodyLayer.createGraphics();
+            g.drawImage(atlas.background(WIDTH, HEIGHT, BACKGROUND), 0, 0, null);
+            // Each body tile faces the segment ahead of it.
+            SpriteAtlas.Dir d = null;
+            Point prev = null;
+            for (Point p : snake) {
+                if (prev != null) {
+                    if (!p.equals(prev) || d == null) d = segmentDir(p, prev);
+                    atlas.drawBody(g, p.x, p.y, d);
+                    bodyCells[cell(p)]++;
                 }
+                prev = p;
             }
+            g.dispose();
+        }
 
-            initGame();
+        private static int cell(Point p) {
+            return (p.y / UNIT) * (WIDTH / UNIT) + p.x / UNIT;
         }
 
         private void initGame() {
+            // Between games is the only place the profile can change, so a hot-reloaded file applies here.
+            profile = ModeProfiles.get(ModeProfiles.GAME_SNAKE, mode);
+            timeLimit = profile.timeLimitMs;
+            level = 0;
+
             snake.clear();
             snake.add(new Point(UNIT * 5, UNIT * 5));
             snake.add(new Point(UNIT * 4, UNIT * 5));
@@ -170,22 +226,31 @@ public class SimpleScoreManager {
             collects.clear();
             powerUps.clear();
 
-            for (int i = 0; i < initialObs + extraObstacles; i++) placeObstacle();
+            for (int i = 0; i < profile.obstacleCount(0); i++) placeObstacle();
 
-            collects.add(new Collectable(10, Color.YELLOW));
-            collects.add(new Collectable(25, Color.CYAN));
-            collects.add(new Collectable(50, Color.MAGENTA));
+            int[] values = profile.collectValues();
+            for (int i = 0; i < values.length; i++)
+                collects.add(new Collectable(values[i], COLLECT_COLORS[i % COLLECT_COLORS.length]));
             for (Collectable c : collects) placeCollectable(c);
 
+            rebuildBodyLayer();
+
             score = 0;
+            activePower = null;
+            shieldContact = false;
             running = true;
-            startTime = System.currentTimeMillis();
+            clock.reset();
 
-            int delay = (int) Math.max(6, 1000.0 / FPS / speedMultiplier);
-            timer = new javax.swing.Timer(delay, this); // fixed ambiguous Timer
+            if (timer != null) timer.stop();
+            timer = new javax.swing.Timer(tickDelay(), this); // fixed ambiguous Timer
             timer.start();
         }
 
+        // Tick interval in real ms; stretched while the clock is slowed so the snake slows with it.
+        private int tickDelay() {
+            return (int) (profile.tickDelay(level) / clock.getTimeScale());
+        }
+
         private void placeObstacle() {
             Rectangle r;
             int tries = 0;
@@ -233,60 +298,50 @@ public class SimpleScoreManager {
         }
 
         private void draw(Graphics2D g) {
-            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.drawImage(bodyLayer, 0, 0, null);
 
-            g.setColor(new Color(30, 30, 30));
-            for (int x = 0; x < WIDTH; x += UNIT) g.drawLine(x, 0, x, HEIGHT);
-            for (int y = 0; y < HEIGHT; y += UNIT) g.drawLine(0, y, WIDTH, y);
+            // The head faces the way it last moved (from the neck), not the last key pressed.
+            Iterator<Point> it = snake.iterator();
+            Point head = it.next(), neck = it.hasNext() ? it.next() : head;
+            SpriteAtlas.Dir d = neck.equals(head) ? SpriteAtlas.Dir.valueOf(dir.name()) : segmentDir(neck, head);
+            atlas.drawHead(g, head.x, head.y, d);
 
-            g.setColor(snakeColor);
-            for (int i = 0; i < snake.size(); i++) {
-                Point p = snake.get(i);
-                if (i == 0) g.fill(new RoundRectangle2D.Float(p.x, p.y, UNIT, UNIT, 8, 8));
-                else g.fillRect(p.x, p.y, UNIT, UNIT);
-            }
+            for (Collectable c : collects)
+                if (c.pos != null) atlas.drawCollectable(g, c.pos.x, c.pos.y, c.value, c.color);
 
-            for (Collectable c : collects) {
-                if (c.pos == null) continue;
-                g.setColor(c.color);
-                int pad = 4;
-                g.fillOval(c.pos.x + pad / 2, c.pos.y + pad / 2, UNIT - pad, UNIT - pad);
-                g.setColor(Color.BLACK);
-                g.setFont(new Font("SansSerif", Font.BOLD, 11));
-                FontMetrics fm = g.getFontMetrics();
-                String s = String.valueOf(c.value);
-                int tx = c.pos.x + (UNIT - fm.stringWidth(s)) / 2;
-                int ty = c.pos.y + ((UNIT - fm.getHeight()) / 2) + fm.getAscent();
-                g.drawString(s, tx, ty);
-            }
+            for (Rectangle r : obstacles) atlas.drawObstacle(g, r.x, r.y);
 
-            g.setColor(new Color(80, 80, 80));
-            for (Rectangle r : obstacles) g.fillRect(r.x, r.y, r.width, r.height);
-
-            for (PowerUp p : powerUps) {
-                if (p.pos == null) continue;
-                g.setColor(p.color);
-                g.fillOval(p.pos.x + 2, p.pos.y + 2, UNIT - 4, UNIT - 4);
-            }
+            for (PowerUp p : powerUps)
+                if (p.pos != null) atlas.drawPowerUp(g, p.pos.x, p.pos.y, p.type.ordinal());
 
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g.setColor(Color.WHITE);
-            g.setFont(new Font("Consolas", Font.BOLD, 16));
+            g.setFont(HUD_FONT);
             g.drawString("Score: " + score, 10, 20);
-            long rem = Math.max(0, timeLimit - (System.currentTimeMillis() - startTime));
+            long rem = Math.max(0, timeLimit - clock.elapsedMillis());
             g.drawString(String.format("Time: %02d:%02d", rem / 60000, (rem / 1000) % 60), WIDTH - 160, 20);
 
             if (!running) {
                 g.setColor(new Color(0, 0, 0, 170));
                 g.fillRect(0, HEIGHT / 2 - 80, WIDTH, 160);
                 g.setColor(Color.WHITE);
-                g.setFont(new Font("SansSerif", Font.BOLD, 36));
+                g.setFont(TITLE_FONT);
                 drawCentered(g, "Game Over", HEIGHT / 2 - 20);
-                g.setFont(new Font("SansSerif", Font.PLAIN, 20));
+                g.setFont(MESSAGE_FONT);
                 drawCentered(g, "Final Score: " + score, HEIGHT / 2 + 20);
                 drawCentered(g, "Press ENTER to play again", HEIGHT / 2 + 50);
             }
         }
 
+        // Direction of travel from a segment to the one ahead of it, accounting for edge wrap.
+        private static SpriteAtlas.Dir segmentDir(Point from, Point to) {
+            int dx = to.x - from.x, dy = to.y - from.y;
+            if (dx == UNIT || dx < -UNIT) return SpriteAtlas.Dir.RIGHT;
+            if (dx == -UNIT || dx > UNIT) return SpriteAtlas.Dir.LEFT;
+            if (dy == UNIT || dy < -UNIT) return SpriteAtlas.Dir.DOWN;
+            return SpriteAtlas.Dir.UP;
+        }
+
         private void drawCentered(Graphics2D g, String text, int y) {
             FontMetrics fm = g.getFontMetrics();
             int x = (WIDTH - fm.stringWidth(text)) / 2;
@@ -296,13 +351,13 @@ public class SimpleScoreManager {
         @Override
         public void actionPerformed(ActionEvent e) {
             if (!running) return;
-            long now = System.currentTimeMillis();
-            if (now - startTime >= timeLimit) {
+            long now = clock.tick();
+            if (now >= timeLimit) {
                 endGame();
                 return;
             }
 
-            if (rnd.nextDouble() < 0.005 && powerUps.size() < 2) spawnPowerUp();
+            if (rnd.nextDouble() < profile.powerUpChance && powerUps.size() < profile.maxPowerUps) spawnPowerUp();
 
             move();
             checkCollects();
@@ -312,9 +367,8 @@ public class SimpleScoreManager {
         }
 
         private void spawnPowerUp() {
-            PowerUp.Type[] types = PowerUp.Type.values();
-            PowerUp.Type t = types[rnd.nextInt(types.length)];
-            PowerUp p = new PowerUp(t);
+            PowerUp.Type t = PowerUp.TYPES[profile.rollPowerUp(rnd)];
+            PowerUp p = new PowerUp(t, profile.powerUpDurationMs);
             int tries = 0;
             Point pos;
             do {
@@ -340,8 +394,16 @@ public class SimpleScoreManager {
             if (nh.y < 0) nh.y = HEIGHT - UNIT;
             if (nh.y >= HEIGHT) nh.y = 0;
 
+            // The old head becomes the neck: one body tile in, and the tail cell back to background.
+            Graphics2D g = bodyLayer.createGraphics();
+            atlas.drawBody(g, head.x, head.y, segmentDir(head, nh));
+            bodyCells[cell(head)]++;
             snake.addFirst(nh);
-            snake.removeLast();
+            Point tail = snake.removeLast();
+            if (--bodyCells[cell(tail)] == 0)
+                g.drawImage(atlas.background(WIDTH, HEIGHT, BACKGROUND), tail.x, tail.y, tail.x + UNIT, tail.y + UNIT,
+                        tail.x, tail.y, tail.x + UNIT, tail.y + UNIT, null);
+            g.dispose();
         }
 
         private void checkCollects() {
@@ -349,13 +411,16 @@ public class SimpleScoreManager {
             for (Collectable c : collects) {
                 if (c.pos != null && c.pos.equals(head)) {
                     int gained = c.value;
-                    if (activePower != null && activePower.type == PowerUp.Type.MULTIPLIER && activePower.isActive())
+                    if (activePower != null && activePower.type == PowerUp.Type.MULTIPLIER && activePower.isActive(clock.unscaledMillis()))
                         gained *= 2;
                     score += gained;
-                    Toolkit.getDefaultToolkit().beep();
-                    snake.addLast(new Point(snake.getLast()));
-                    for (int i = 0; i < obsIncrease; i++)
-                        if (obstacles.size() < maxObs) placeObstacle();
+                    audio.play(AudioEngine.Cue.forPickup(c.value));
+                    Point tail = new Point(snake.getLast());
+                    snake.addLast(tail);
+                    bodyCells[cell(tail)]++; // same cell as the old tail, already drawn
+                    level++;
+                    while (obstacles.size() < profile.obstacleCount(level)) placeObstacle();
+                    timer.setDelay(tickDelay());
                     for (Collectable cc : collects) placeCollectable(cc);
                     return;
                 }
@@ -370,47 +435,53 @@ public class SimpleScoreManager {
                 if (p.pos != null && p.pos.equals(head)) {
                     activatePowerUp(p);
                     it.remove();
-                    Toolkit.getDefaultToolkit().beep();
+                    audio.play(switch (p.type) {
+                        case SLOW -> AudioEngine.Cue.POWER_SLOW;
+                        case SHIELD -> AudioEngine.Cue.POWER_SHIELD;
+                        case MULTIPLIER -> AudioEngine.Cue.POWER_MULTIPLIER;
+                    });
                     return;
                 }
             }
-            if (activePower != null && !activePower.isActive()) activePower = null;
+            if (activePower != null && !activePower.isActive(clock.unscaledMillis())) {
+                activePower = null;
+                clock.setTimeScale(1.0);
+                timer.setDelay(tickDelay());
+            }
         }
 
         private void activatePowerUp(PowerUp p) {
             activePower = p;
-            activePower.activate();
-            if (p.type == PowerUp.Type.SLOW) {
-                timer.setDelay((int) (timer.getDelay() * 1.6));
-                new javax.swing.Timer((int) p.duration, ev -> timer.setDelay((int) (1000.0 / FPS / speedMultiplier))).start();
-            }
+            activePower.activate(clock.unscaledMillis());
+            clock.setTimeScale(p.type == PowerUp.Type.SLOW ? 1 / profile.slowFactor : 1.0);
+            timer.setDelay(tickDelay());
         }
 
         private void checkCollisions() {
             Point head = snake.getFirst();
-            for (int i = 1; i < snake.size(); i++)
-                if (head.equals(snake.get(i))) {
-                    if (activePower != null && activePower.type == PowerUp.Type.SHIELD && activePower.isActive()) {
-                        Toolkit.getDefaultToolkit().beep();
-                        return;
-                    }
-                    endGame();
-                    return;
-                }
-            for (Rectangle r : obstacles)
-                if (r.contains(head)) {
-                    if (activePower != null && activePower.type == PowerUp.Type.SHIELD && activePower.isActive()) {
-                        Toolkit.getDefaultToolkit().beep();
-                        return;
-                    }
-                    endGame();
-                    return;
-                }
+            boolean hit = false;
+            Iterator<Point> body = snake.iterator();
+            body.next();
+            while (!hit && body.hasNext()) hit = head.equals(body.next());
+            for (Rectangle r : obstacles) if (!hit) hit = r.contains(head);
+
+            if (!hit) {
+                shieldContact = false;
+                return;
+            }
+            if (activePower != null && activePower.type == PowerUp.Type.SHIELD && activePower.isActive(clock.unscaledMillis())) {
+                // One cue per contact, not one per tick spent passing through.
+                if (!shieldContact) audio.play(AudioEngine.Cue.SHIELD_HIT);
+                shieldContact = true;
+                return;
+            }
+            endGame();
         }
 
         private void endGame() {
             running = false;
             timer.stop();
+            clock.pause();
             SwingUtilities.invokeLater(() -> {
                 String name = JOptionPane.showInputDialog(this, "Enter name for scoreboard:", "Player");
                 if (name == null || name.trim().isEmpty()) name = "Player";
@@ -434,7 +505,15 @@ public class SimpleScoreManager {
                 case KeyEvent.VK_RIGHT -> { if (dir != Direction.LEFT) dir = Direction.RIGHT; }
                 case KeyEvent.VK_UP -> { if (dir != Direction.DOWN) dir = Direction.UP; }
                 case KeyEvent.VK_DOWN -> { if (dir != Direction.UP) dir = Direction.DOWN; }
-                case KeyEvent.VK_P -> { if (timer.isRunning()) timer.stop(); else timer.start(); }
+                case KeyEvent.VK_P -> {
+                    if (timer.isRunning()) {
+                        timer.stop();
+                        clock.pause();
+                    } else {
+                        clock.resume();
+                        timer.start();
+                    }
+                }
                 case KeyEvent.VK_R -> initGame();
                 case KeyEvent.VK_S -> ScoreManager.showScoreboard(this);
             }
@@ -456,28 +535,34 @@ public class SimpleScoreManager {
         static class PowerUp {
             enum Type {SLOW, SHIELD, MULTIPLIER}
 
+            static final Type[] TYPES = Type.values();
+
             Type type;
             Point pos;
             Color color;
             int duration;
             long activatedAt = 0;
 
-            PowerUp(Type t) {
+            PowerUp(Type t, int duration) {
                 type = t;
-                switch (t) {
-                    case SLOW -> color = Color.BLUE;
-                    case SHIELD -> color = Color.GREEN;
-                    case MULTIPLIER -> color = Color.ORANGE;
-                }
-                duration = 10000;
+                color = colorFor(t);
+                this.duration = duration;
+            }
+
+            static Color colorFor(Type t) {
+                return switch (t) {
+                    case SLOW -> Color.BLUE;
+                    case SHIELD -> Color.GREEN;
+                    case MULTIPLIER -> Color.ORANGE;
+                };
             }
 
-            void activate() {
-                activatedAt = System.currentTimeMillis();
+            void activate(long now) {
+                activatedAt = now;
             }
 
-            boolean isActive() {
-                return System.currentTimeMillis() - activatedAt < duration;
+            boolean isActive(long now) {
+                return now - activatedAt < duration;
             }
         }
     }
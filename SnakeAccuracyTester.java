@@ -9,13 +9,44 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
     private final int WIDTH = 900;
     private final int HEIGHT = 600;
     private final int UNIT_SIZE = 25;
-    private final int BASE_DELAY = 80;
-    private final int GAME_DURATION = 120000; // 2 min
+    static final String TITLE = "Snake Accuracy & Reflex Tester";
+    static final String DEFAULT_MODE = "Accuracy";
+    static final String[] COLORS = {"Blue", "Green", "Red", "Yellow", "Cyan", "Pink"};
+
+    static String instructions(ModeProfiles.Profile p) {
+        return """
+                Arrow keys to move.
+                Each food is worth %d to %d points.
+                %s
+                Time limit: %s.
+                Results show your moves, accuracy and average reaction time.
+                """.formatted(p.foodMin, p.foodMax, rampText(p), p.timeLimitText());
+    }
+
+    private static String rampText(ModeProfiles.Profile p) {
+        if (p.speedsUp() && p.addsObstacles()) return "Every pickup speeds the snake up and adds obstacles.";
+        if (p.speedsUp()) return "Every pickup speeds the snake up.";
+        if (p.addsObstacles()) return "Every pickup adds obstacles.";
+        return "Speed and obstacles stay the same all round.";
+    }
+
+    static Color colorFor(String name) {
+        return switch (name == null ? "Blue" : name) {
+            case "Green" -> Color.GREEN;
+            case "Red" -> Color.RED;
+            case "Yellow" -> Color.YELLOW;
+            case "Cyan" -> Color.CYAN;
+            case "Pink" -> Color.PINK;
+            default -> Color.BLUE;
+        };
+    }
 
     private int snakeLength = 5;
     private int score = 0;
-    private int obstaclesCount = 4;
-    private long startTime;
+    private final String mode;
+    private ModeProfiles.Profile profile;
+    private int level = 0;
+    private final GameClock clock = new GameClock();
     private boolean running = false;
 
     private char direction = 'R';
@@ -29,71 +60,71 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
     private Color snakeColor;
 
     private LinkedList<Point> snake = new LinkedList<>();
-    private int delay;
 
     // Accuracy tracking
     private int totalMoves = 0;
     private int foodHits = 0;
+    private long foodSpawnedAt = 0;
+    private long reactionTotal = 0;
 
     public SnakeAccuracyTester() {
+        this(null, DEFAULT_MODE);
+    }
+
+    // A null color asks the player with the color dialog.
+    public SnakeAccuracyTester(Color color, String mode) {
+        this.mode = mode;
         random = new Random();
         setPreferredSize(new Dimension(WIDTH, HEIGHT));
         setBackground(Color.BLACK);
         setFocusable(true);
         addKeyListener(this);
 
-        snakeColor = chooseSnakeColor();
+        snakeColor = color != null ? color : chooseSnakeColor();
         startGame();
     }
 
     private Color chooseSnakeColor() {
-        String[] colors = {"Blue", "Green", "Red", "Yellow", "Cyan", "Pink"};
         String choice = (String) JOptionPane.showInputDialog(null,
                 "Choose your snake color:",
                 "Snake Color",
                 JOptionPane.QUESTION_MESSAGE,
-                null, colors, colors[0]);
-
-        if (choice == null) return Color.BLUE;
-        return switch (choice) {
-            case "Green" -> Color.GREEN;
-            case "Red" -> Color.RED;
-            case "Yellow" -> Color.YELLOW;
-            case "Cyan" -> Color.CYAN;
-            case "Pink" -> Color.PINK;
-            default -> Color.BLUE;
-        };
+                null, COLORS, COLORS[0]);
+        return colorFor(choice);
     }
 
     private void startGame() {
+        // Picks up modes.properties edits made since the last round.
+        profile = ModeProfiles.get(ModeProfiles.GAME_ACCURACY, mode);
+        level = 0;
         snake.clear();
         for (int i = 0; i < snakeLength; i++)
             snake.add(new Point(UNIT_SIZE * (snakeLength - i), UNIT_SIZE * 5));
 
         direction = 'R';
-        obstaclesCount = 4;
+        clock.reset();
         spawnObstacles();
         spawnFood();
         running = true;
-        startTime = System.currentTimeMillis();
-        delay = BASE_DELAY;
-        timer = new javax.swing.Timer(delay, this);
+        timer = new javax.swing.Timer(profile.tickDelay(level), this);
         timer.start();
 
         totalMoves = 0;
         foodHits = 0;
+        reactionTotal = 0;
     }
 
     private void spawnFood() {
         food = new Point(random.nextInt(WIDTH / UNIT_SIZE) * UNIT_SIZE,
                 random.nextInt(HEIGHT / UNIT_SIZE) * UNIT_SIZE);
         foodColor = new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
-        foodValue = 10 + random.nextInt(41); // 10 to 50
+        foodValue = profile.rollFoodValue(random);
+        foodSpawnedAt = clock.millis();
     }
 
     private void spawnObstacles() {
         obstacles = new ArrayList<>();
-        for (int i = 0; i < obstaclesCount; i++) {
+        for (int i = 0; i < profile.obstacleCount(level); i++) {
             obstacles.add(new Rectangle(random.nextInt(WIDTH / UNIT_SIZE) * UNIT_SIZE,
                     random.nextInt(HEIGHT / UNIT_SIZE) * UNIT_SIZE, UNIT_SIZE, UNIT_SIZE));
         }
@@ -126,10 +157,10 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
             score += foodValue;
             snakeLength++;
             foodHits++;
+            reactionTotal += clock.millis() - foodSpawnedAt;
             // Increase difficulty
-            delay = Math.max(30, delay - 3);
-            timer.setDelay(delay);
-            obstaclesCount++;
+            level++;
+            timer.setDelay(profile.tickDelay(level));
             spawnFood();
             spawnObstacles();
             return true;
@@ -151,15 +182,7 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
     }
 
     private void drawTimer(Graphics g) {
-        long elapsed = System.currentTimeMillis() - startTime;
-        long remaining = GAME_DURATION - elapsed;
-        if (remaining <= 0) {
-            running = false;
-            timer.stop();
-            showGameOverUI();
-            return;
-        }
-
+        long remaining = Math.max(0, profile.timeLimitMs - clock.elapsedMillis());
         int seconds = (int) (remaining / 1000);
         g.setColor(Color.WHITE);
         g.setFont(new Font("Consolas", Font.BOLD, 22));
@@ -198,8 +221,6 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
 
             // Timer
             drawTimer(g2);
-        } else {
-            showGameOverUI();
         }
     }
 
@@ -207,6 +228,7 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
         SwingUtilities.invokeLater(() -> {
             // Accuracy calculation
             double accuracy = totalMoves == 0 ? 0 : (foodHits * 100.0 / totalMoves);
+            double reaction = foodHits == 0 ? 0 : (reactionTotal / 1000.0 / foodHits);
 
             String[] options = {"Try Again", "Exit"};
             JPanel panel = new JPanel(new GridLayout(0, 1, 5, 5));
@@ -229,7 +251,8 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
             Object[][] data = {
                     {"Total Moves", totalMoves},
                     {"Food Collected", foodHits},
-                    {"Accuracy (%)", String.format("%.2f", accuracy)}
+                    {"Accuracy (%)", String.format("%.2f", accuracy)},
+                    {"Avg Reaction (s)", String.format("%.2f", reaction)}
             };
             JTable table = new JTable(data, col);
             table.setEnabled(false);
@@ -251,8 +274,17 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
     @Override
     public void actionPerformed(ActionEvent e) {
         if (running) {
-            move();
-            checkCollision();
+            if (clock.tick() >= profile.timeLimitMs) {
+                running = false;
+                timer.stop();
+            } else {
+                move();
+                checkCollision();
+            }
+            if (!running) {
+                clock.pause();
+                showGameOverUI();
+            }
         }
         repaint();
     }
@@ -271,7 +303,7 @@ public class SnakeAccuracyTester extends JPanel implements ActionListener, KeyLi
     @Override public void keyTyped(KeyEvent e) {}
 
     public static void main(String[] args) {
-        JFrame frame = new JFrame("Snake Accuracy & Reflex Tester");
+        JFrame frame = new JFrame(TITLE);
         SnakeAccuracyTester game = new SnakeAccuracyTester();
         frame.add(game);
         frame.pack();
@@ -0,0 +1,166 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+// Pre-rasterized game tiles packed into compatible (accelerated) images.
+// Drawing a tile is a single drawImage blit; no shapes, fonts or metrics per frame.
+// Square tiles (body, obstacle) live in an opaque strip so they blit as plain copies;
+// tiles with rounded edges live in a translucent strip.
+public class SpriteAtlas {
+    public enum Dir {UP, DOWN, LEFT, RIGHT}
+
+    private static final Color OBSTACLE_COLOR = new Color(80, 80, 80);
+    private static final Color GRID_COLOR = new Color(30, 30, 30);
+    private static final Font VALUE_FONT = new Font("SansSerif", Font.BOLD, 11);
+
+    // Opaque strip: bodies (one per direction), obstacle. Translucent strip: heads (one per direction), power-ups.
+    private static final int BODY_COL = 0;
+    private static final int OBSTACLE_COL = 4;
+    private static final int SOLID_COLS = 5;
+    private static final int HEAD_COL = 0;
+    private static final int POWER_COL = 4;
+    private static final int SHAPED_COLS = 8;
+
+    private final int unit;
+    private final Color[] powerColors;
+    private Color snakeColor;
+    private BufferedImage solid;
+    private BufferedImage shaped;
+    private BufferedImage background;
+    private final Map<Long, BufferedImage> collectTiles = new HashMap<>();
+
+    public SpriteAtlas(int unit, Color snakeColor, Color... powerColors) {
+        this.unit = unit;
+        this.snakeColor = snakeColor;
+        this.powerColors = powerColors.clone();
+        rebuild();
+    }
+
+    // Rebuilds the snake tiles only when the colour actually changes.
+    public void setSnakeColor(Color c) {
+        if (c.equals(snakeColor)) return;
+        snakeColor = c;
+        rebuild();
+    }
+
+    public Color getSnakeColor() {
+        return snakeColor;
+    }
+
+    private void rebuild() {
+        BufferedImage img = createImage(unit * SOLID_COLS, unit, Transparency.OPAQUE);
+        Graphics2D g = img.createGraphics();
+        for (Dir d : Dir.values()) drawBody(g, (BODY_COL + d.ordinal()) * unit, d);
+        g.setColor(OBSTACLE_COLOR);
+        g.fillRect(OBSTACLE_COL * unit, 0, unit, unit);
+        g.dispose();
+        solid = img;
+
+        img = createImage(unit * SHAPED_COLS, unit, Transparency.TRANSLUCENT);
+        g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (Dir d : Dir.values()) drawHead(g, (HEAD_COL + d.ordinal()) * unit, d);
+        for (int i = 0; i < powerColors.length && POWER_COL + i < SHAPED_COLS; i++) {
+            g.setColor(powerColors[i]);
+            g.fillOval((POWER_COL + i) * unit + 2, 2, unit - 4, unit - 4);
+        }
+        g.dispose();
+        shaped = img;
+    }
+
+    private void drawHead(Graphics2D g, int x, Dir d) {
+        g.setColor(snakeColor);
+        g.fillRoundRect(x, 0, unit, unit, 8, 8);
+        // Eyes sit on the leading edge so the head reads as facing the direction of travel.
+        int e = Math.max(2, unit / 6);
+        int near = unit / 4 - e / 2, far = unit - unit / 4 - e / 2, lead = unit - unit / 4 - e / 2, trail = unit / 4 - e / 2;
+        g.setColor(Color.BLACK);
+        switch (d) {
+            case UP -> { g.fillOval(x + near, trail, e, e); g.fillOval(x + far, trail, e, e); }
+            case DOWN -> { g.fillOval(x + near, lead, e, e); g.fillOval(x + far, lead, e, e); }
+            case LEFT -> { g.fillOval(x + trail, near, e, e); g.fillOval(x + trail, far, e, e); }
+            case RIGHT -> { g.fillOval(x + lead, near, e, e); g.fillOval(x + lead, far, e, e); }
+        }
+    }
+
+    private void drawBody(Graphics2D g, int x, Dir d) {
+        g.setColor(snakeColor);
+        g.fillRect(x, 0, unit, unit);
+        // Faint scale line across the direction of travel.
+        g.setColor(snakeColor.darker());
+        if (d == Dir.UP || d == Dir.DOWN) g.drawLine(x + 3, unit / 2, x + unit - 4, unit / 2);
+        else g.drawLine(x + unit / 2, 3, x + unit / 2, unit - 4);
+    }
+
+    // Grid background for a width x height board, rendered once.
+    public BufferedImage background(int width, int height, Color bg) {
+        if (background == null || background.getWidth() != width || background.getHeight() != height) {
+            BufferedImage img = createImage(width, height, Transparency.OPAQUE);
+            Graphics2D g = img.createGraphics();
+            g.setColor(bg);
+            g.fillRect(0, 0, width, height);
+            g.setColor(GRID_COLOR);
+            for (int x = 0; x < width; x += unit) g.drawLine(x, 0, x, height);
+            for (int y = 0; y < height; y += unit) g.drawLine(0, y, width, y);
+            g.dispose();
+            background = img;
+        }
+        return background;
+    }
+
+    public void drawHead(Graphics g, int x, int y, Dir d) {
+        blit(g, shaped, HEAD_COL + d.ordinal(), x, y);
+    }
+
+    public void drawBody(Graphics g, int x, int y, Dir d) {
+        blit(g, solid, BODY_COL + d.ordinal(), x, y);
+    }
+
+    public void drawObstacle(Graphics g, int x, int y) {
+        blit(g, solid, OBSTACLE_COL, x, y);
+    }
+
+    public void drawPowerUp(Graphics g, int x, int y, int type) {
+        blit(g, shaped, POWER_COL + type, x, y);
+    }
+
+    // Collectable tiles are keyed by value and colour and built on first use.
+    public void drawCollectable(Graphics g, int x, int y, int value, Color color) {
+        long key = ((long) value << 32) | (color.getRGB() & 0xffffffffL);
+        BufferedImage tile = collectTiles.computeIfAbsent(key, k -> buildCollectable(value, color));
+        g.drawImage(tile, x, y, null);
+    }
+
+    private BufferedImage buildCollectable(int value, Color color) {
+        BufferedImage img = createImage(unit, unit, Transparency.TRANSLUCENT);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        int pad = 4;
+        g.setColor(color);
+        g.fillOval(pad / 2, pad / 2, unit - pad, unit - pad);
+        g.setColor(Color.BLACK);
+        g.setFont(VALUE_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        String s = String.valueOf(value);
+        g.drawString(s, (unit - fm.stringWidth(s)) / 2, ((unit - fm.getHeight()) / 2) + fm.getAscent());
+        g.dispose();
+        return img;
+    }
+
+    private void blit(Graphics g, BufferedImage strip, int col, int x, int y) {
+        int sx = col * unit;
+        g.drawImage(strip, x, y, x + unit, y + unit, sx, 0, sx + unit, unit, null);
+    }
+
+    static BufferedImage createImage(int w, int h, int transparency) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(w, h, transparency);
+        }
+        return new BufferedImage(w, h, transparency == Transparency.OPAQUE
+                ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+}
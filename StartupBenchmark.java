@@ -0,0 +1,60 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+// Measures time from JVM start to the first playable game frame by launching
+// Launcher in fresh JVMs (autostart, exit after first frame) and parsing its report.
+// Run: ./launch.sh bench [runs] [--headless]
+// Without a display, --headless paints the first frame offscreen; that still covers
+// class loading, warm-up and game construction, but not window creation.
+public class StartupBenchmark {
+    public static void main(String[] args) throws Exception {
+        List<String> argList = new ArrayList<>(Arrays.asList(args));
+        boolean headless = argList.remove("--headless");
+        int runs = argList.isEmpty() ? 5 : Integer.parseInt(argList.get(0));
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String cp = System.getProperty("java.class.path");
+
+        Map<String, List<String>> configs = new LinkedHashMap<>();
+        configs.put("cold", List.of("-Dsnake.classlist=none"));
+        if (Files.exists(Paths.get("snake.classlist")))
+            configs.put("class list preload", List.of("-Dsnake.classlist=snake.classlist"));
+        if (Files.exists(Paths.get("snake.jsa"))) {
+            configs.put("AppCDS", List.of("-XX:SharedArchiveFile=snake.jsa", "-Xshare:auto",
+                    "-Dsnake.classlist=none"));
+            configs.put("AppCDS + preload", List.of("-XX:SharedArchiveFile=snake.jsa", "-Xshare:auto",
+                    "-Dsnake.classlist=snake.classlist"));
+        }
+        if (configs.size() == 1) System.out.println("(no snake.classlist / snake.jsa yet; run ./launch.sh record)");
+
+        System.out.printf("%-20s %12s %12s %12s%n", "config", "min ms", "median ms", "max ms");
+        for (Map.Entry<String, List<String>> c : configs.entrySet()) {
+            long[] samples = new long[runs];
+            List<String> jvmArgs = new ArrayList<>(c.getValue());
+            if (headless) jvmArgs.add("-Djava.awt.headless=true");
+            for (int i = 0; i < runs; i++) samples[i] = firstFrame(java, cp, jvmArgs);
+            Arrays.sort(samples);
+            System.out.printf("%-20s %12d %12d %12d%n", c.getKey(), samples[0], samples[runs / 2], samples[runs - 1]);
+        }
+    }
+
+    private static long firstFrame(String java, String cp, List<String> jvmArgs) throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(java);
+        cmd.addAll(jvmArgs);
+        cmd.addAll(List.of("-Dsnake.autostart=true", "-Dsnake.benchmark=true", "-Dsnake.audio=off",
+                "-cp", cp, "Launcher"));
+        Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        long ms = -1;
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream()))) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                // "startup 812 ms: first playable frame"
+                if (line.startsWith("startup ") && line.endsWith("first playable frame"))
+                    ms = Long.parseLong(line.substring(8, line.indexOf(' ', 8)));
+            }
+        }
+        if (p.waitFor() != 0 || ms < 0) throw new IllegalStateException("launcher run failed: " + cmd);
+        return ms;
+    }
+}
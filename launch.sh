@@ -0,0 +1,43 @@
+#!/bin/sh
+# Starts the game through Launcher, using the AppCDS archive once one has been recorded.
+#
+#   ./launch.sh          play
+#   ./launch.sh record   record snake.classlist and dump the snake.jsa AppCDS archive from it
+#   ./launch.sh bench    time to first playable frame: cold vs class-list preload vs AppCDS
+#
+# record and bench accept --headless to paint the first frame offscreen instead of
+# opening a window (for machines without a display; record and bench the same way).
+#
+# AppCDS only accepts classes from jars, so the sources are compiled into snake.jar.
+# The archive and the class list are tied to that exact jar and are dropped whenever
+# the jar is rebuilt.
+set -e
+cd "$(dirname "$0")"
+
+if [ ! -f snake.jar ] || [ -n "$(find . -maxdepth 1 -name '*.java' -newer snake.jar)" ]; then
+    rm -rf build snake.jsa snake.classlist
+    javac -encoding UTF-8 -d build *.java
+    jar cf snake.jar -C build .
+fi
+
+case "$1" in
+    record)
+        headless=
+        [ "$2" = "--headless" ] && headless=-Djava.awt.headless=true
+        rm -f snake.classlist snake.jsa
+        java -XX:DumpLoadedClassList=snake.classlist $headless \
+            -Dsnake.autostart=true -Dsnake.benchmark=true -Dsnake.audio=off -cp snake.jar Launcher
+        java -Xshare:dump -XX:SharedClassListFile=snake.classlist -XX:SharedArchiveFile=snake.jsa \
+            -cp snake.jar
+        ;;
+    bench)
+        shift
+        java -cp snake.jar StartupBenchmark "$@"
+        ;;
+    *)
+        if [ -f snake.jsa ]; then
+            exec java -XX:SharedArchiveFile=snake.jsa -Xshare:auto -cp snake.jar Launcher
+        fi
+        exec java -cp snake.jar Launcher
+        ;;
+esac